@@ -7,12 +7,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public abstract class CachingPageManager implements PageManager {
-    List<Coordinator> cached = new ArrayList<>();
+    List<Node<?>> cached = new ArrayList<>();
     private int currentPage = -1;
 
     @Nullable
     @Override
-    public Coordinator currentPage() {
+    public Node<?> currentPage() {
         if(withinBounds(currentPage)) {
             return cached.get(currentPage);
         }
@@ -21,12 +21,12 @@ public abstract class CachingPageManager implements PageManager {
 
     @Nullable
     @Override
-    public Coordinator nextPage() {
+    public Node<?> nextPage() {
         currentPage++;
         if(withinBounds(currentPage)) {
             return cached.get(currentPage);
         }
-        Coordinator c = createCoordinator(currentPage);
+        Node<?> c = createCoordinator(currentPage);
         if(c != null) {
             cached.add(currentPage, c);
         }
@@ -35,12 +35,12 @@ public abstract class CachingPageManager implements PageManager {
 
     @Nullable
     @Override
-    public Coordinator previousPage() {
+    public Node<?> previousPage() {
         currentPage--;
         if(withinBounds(currentPage)) {
             return cached.get(currentPage);
         }
-        Coordinator c = createCoordinator(currentPage);
+        Node<?> c = createCoordinator(currentPage);
         if(c != null) {
             cached.add(currentPage, c);
         }
@@ -59,12 +59,12 @@ public abstract class CachingPageManager implements PageManager {
     }
 
     /**
-     * Called to obtain a {@link Coordinator} for a page.
+     * Called to obtain a coordinator for a page.
      * <p>
-     * Newly created Coordinators are cached so that navigation is maintained.
+     * Newly created coordinators are cached so that navigation is maintained.
      *
      * @return null if we have no more pages
      */
     @Nullable
-    protected abstract Coordinator createCoordinator(int pageNumber);
+    protected abstract Node<?> createCoordinator(int pageNumber);
 }
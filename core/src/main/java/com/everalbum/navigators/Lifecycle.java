@@ -0,0 +1,54 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Attach/detach state machine binding a {@link Node} to a view. Rendering backends forward the
+ * attach and detach events of a view to it.
+ * <p>
+ * Keeps track of the attached view to avoid double attachment of the node, and to guard against
+ * attachment to two different views simultaneously.
+ */
+public final class Lifecycle<V> {
+    private final Node<V>           node;
+    @Nullable private final Node<V> parent;
+    private V                       attached;
+
+    public Lifecycle(@NonNull Node<V> node, @Nullable Node<V> parent) {
+        this.node = node;
+        this.parent = parent;
+    }
+
+    /**
+     * @return true if the node got attached to the view, false if it already was
+     */
+    public boolean onAttached(@NonNull V view) {
+        if (view == attached) {
+            return false;
+        }
+        if (node.isAttached()) {
+            throw new IllegalStateException(
+                    "Node " + node.getClass().getSimpleName() + " is already attached to a view");
+        }
+        node.setParent(parent);
+        attached = view;
+        node.setAttached(true);
+        node.attach(attached);
+        return true;
+    }
+
+    /**
+     * @return true if the node got detached from the view, false if it wasn't attached to it
+     */
+    public boolean onDetached(@NonNull V view) {
+        if (view != attached) {
+            return false;
+        }
+        node.detach(view);
+        node.setAttached(false);
+        node.setParent(null);
+        attached = null;
+        return true;
+    }
+}
@@ -5,13 +5,13 @@ package com.everalbum.navigators;
  */
 public interface NavigationCallback {
     /**
-     * Called whenever a coordinator is brought on screen via {@link Navigator#nextPage()}
+     * Called whenever a coordinator is brought on screen via {@link NavigationTree#nextPage()}
      * @param handled true if a child coordinator or navigator has handled the navigation, false if
      *                the last page was reached.
      */
     void onNext(boolean handled);
     /**
-     * Called whenever a coordinator is brought on screen via {@link Navigator#previousPage()} ()}
+     * Called whenever a coordinator is brought on screen via {@link NavigationTree#previousPage()}
      * @param handled true if a child coordinator or navigator has handled the navigation, false if
      *                the first page was reached.
      */
@@ -0,0 +1,252 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static com.everalbum.navigators.NavigationTree.Direction.BACKWARDS;
+import static com.everalbum.navigators.NavigationTree.Direction.FORWARD;
+
+/**
+ * Navigation engine of a navigator {@link Node}. Allows the owning node to have children nodes and
+ * navigate forwards and backwards between them.
+ * <p>
+ * Together, the trees of all navigators form the navigation tree, where nodes without a
+ * {@link NavigationTree} are leaf nodes and navigators are regular nodes. Navigation in this tree
+ * happens in a depth-first fashion.
+ * <p>
+ * The tree does not know how pages are displayed; all rendering is delegated to a {@link Renderer}.
+ */
+public final class NavigationTree<V> {
+    @Retention(RetentionPolicy.CLASS)
+    @IntDef({
+            FORWARD,
+            BACKWARDS
+    })
+    public @interface Direction {
+        int FORWARD   = 0;
+        int BACKWARDS = 1;
+    }
+
+    private final Node<V>            owner;
+    private final PageManager        pageManager;
+    private       Renderer<V>        renderer;
+    private       NavigationCallback navigationCallback;
+    private       boolean            retained;
+
+    /**
+     * Creates the tree of a navigator node. A node can only own one tree.
+     */
+    public NavigationTree(@NonNull Node<V> owner, @NonNull PageManager pageManager) {
+        if (owner.tree != null) {
+            throw new IllegalStateException("Node " + owner.getClass().getSimpleName() + " already has a navigation tree");
+        }
+        this.owner = owner;
+        this.pageManager = pageManager;
+        owner.tree = this;
+    }
+
+    /**
+     * Starts rendering with the given renderer and moves to the first page.
+     */
+    public void initialize(@NonNull Renderer<V> renderer) {
+        this.renderer = renderer;
+        boolean initialized = nextPage();
+        if (!initialized) {
+            throw new IllegalStateException("Provided page manager needs to have at least one page");
+        }
+    }
+
+    /**
+     * Reattaches a retained tree to the given renderer. Only the current page of every navigator in
+     * the active path is shown again; no enter or navigation callbacks are invoked.
+     *
+     * @see #setRetained(boolean)
+     */
+    public void reattach(@NonNull Renderer<V> renderer) {
+        this.renderer = renderer;
+        this.retained = false;
+        Node<V> node = cast(pageManager.currentPage());
+        if (node == null) {
+            throw new IllegalStateException("Retained navigator has no current page to reattach");
+        }
+        renderer.onTransitionStarted();
+        V v = renderer.addPage(node, owner);
+        if (node.tree != null) {
+            node.tree.reattach(renderer.childRenderer(v, node));
+        }
+        renderer.onTransitionFinished(v, node);
+    }
+
+    /**
+     * Called when the owning navigator is detached from its view. Resets the page manager unless
+     * the tree is retained.
+     */
+    public void detach() {
+        if (!retained) {
+            pageManager.reset();
+        }
+        renderer = null;
+        navigationCallback = null;
+    }
+
+    /**
+     * Marks this tree and the trees of all navigators in its active path as retained. A retained
+     * tree keeps its page manager untouched when it is detached, so that it can be reattached later.
+     */
+    public void setRetained(boolean retained) {
+        this.retained = retained;
+        Node<?> current = pageManager.currentPage();
+        if (current != null && current.tree != null) {
+            current.tree.setRetained(retained);
+        }
+    }
+
+    /**
+     * @return true if this tree is retained and waiting to be reattached
+     */
+    public boolean isRetained() {
+        return retained;
+    }
+
+    /**
+     * Add a {@link NavigationCallback} to this tree. The callback will be invoked whenever
+     * the next or previous pages are loaded.
+     */
+    public void setNavigationCallback(NavigationCallback navigationCallback) {
+        this.navigationCallback = navigationCallback;
+    }
+
+    @NonNull
+    public PageManager getPageManager() {
+        return pageManager;
+    }
+
+    /**
+     * @return the renderer this tree is currently shown with, or null if it's detached
+     */
+    @Nullable
+    public Renderer<V> getRenderer() {
+        return renderer;
+    }
+
+    public boolean onBackPress() {
+        Node<?> current = pageManager.currentPage();
+        if(current != null && current.onBackPress()) {
+            // Child is handling back press
+            return true;
+        }
+        return previousPage();
+    }
+
+    /**
+     * Move to the next page.
+     * @return true if handled by a child node or navigator, false if no next page
+     */
+    public boolean nextPage() {
+        return navigateRecursively(FORWARD);
+    }
+
+    /**
+     * Move to the previous page.
+     * @return true if handled by a child node or navigator, false if no previous page
+     */
+    public boolean previousPage() {
+        return navigateRecursively(BACKWARDS);
+    }
+
+    /**
+     * Check all children nodes and navigators and parent navigators for the next or previous pages.
+     */
+    private boolean navigateRecursively(@Direction int direction) {
+        return checkChildNavigator(direction) || navigate(direction);
+    }
+
+    private boolean navigate(@Direction int direction) {
+        final Node<V> node = cast(direction == FORWARD ? pageManager.nextPage() : pageManager.previousPage());
+        if (node == null) {
+            // We can't handle the next or previous pages. Check to see if parent navigator can
+            // handle.
+            Node<V> parent = owner.getParent();
+            if (parent != null && parent.tree != null) {
+                return parent.tree.navigate(direction);
+            }
+            invokeCallback(false, direction);
+            return false;
+        }
+        renderer.onTransitionStarted();
+        // Detach current node and view
+        V current = renderer.currentPage();
+        if (current != null) {
+            Node<V> c = renderer.getNode(current);
+            if(c != null) {
+                if (c.tree != null) {
+                    // Only the active path is retained; a navigator being removed is reset as usual
+                    c.tree.setRetained(false);
+                }
+                if(direction == FORWARD) {
+                    c.onExitForwards(current);
+                } else {
+                    c.onExitBackwards(current);
+                }
+                State state = c.getEndingState(owner.getState());
+                owner.setState(state);
+            }
+            renderer.removePage(current);
+        }
+
+        // Create, attach and bind next view and node
+        node.setState(owner.getState());
+        V v = renderer.addPage(node, owner);
+        if(direction == FORWARD) {
+            node.onEnter(v);
+        } else {
+            node.onReenter(v);
+        }
+        if (node.tree != null) {
+            node.tree.initialize(renderer.childRenderer(v, node));
+            // Navigating after retaining, but before detaching, keeps the new active path retained
+            node.tree.setRetained(retained);
+        }
+        renderer.onTransitionFinished(v, node);
+        invokeCallback(true, direction);
+        return true;
+    }
+
+    private void invokeCallback(boolean handled, @Direction int direction) {
+        if (navigationCallback != null) {
+            if (direction == FORWARD) {
+                navigationCallback.onNext(handled);
+            } else {
+                navigationCallback.onPrevious(handled);
+            }
+        }
+    }
+
+    /**
+     * Check to see if current node is actually a navigator. If it is, then it takes priority
+     * to handle next/previous page calls.
+     */
+    private boolean checkChildNavigator(@Direction int direction) {
+        final Node<?> node = pageManager.currentPage();
+        if (node == null || node.tree == null) {
+            return false;
+        }
+        return direction == FORWARD ? node.tree.nextPage() : node.tree.previousPage();
+    }
+
+    /**
+     * Page managers hand out nodes of any view type; all nodes in a tree are expected to share the
+     * view type of its renderer. The view type is erased at runtime, so this can't be checked here:
+     * renderers check that the nodes they are given are of the type they can render (see
+     * {@link Renderer#addPage(Node, Node)}).
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private Node<V> cast(@Nullable Node<?> node) {
+        return (Node<V>) node;
+    }
+}
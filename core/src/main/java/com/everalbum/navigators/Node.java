@@ -0,0 +1,170 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * A node in the navigation tree, independent of how it is rendered. {@code V} is the type of view
+ * the rendering backend binds nodes to.
+ * <p>
+ * Nodes without a {@link NavigationTree} are leaf nodes (pages). Nodes that own a
+ * {@link NavigationTree} are navigators and can have children of their own.
+ */
+public abstract class Node<V> {
+
+    private boolean attached;
+    private Node<V> parent;
+    private State   state = new State();
+    @Nullable NavigationTree<V> tree;
+
+    /**
+     * Set whether or not this node is attached to a view currently.
+     * @param attached
+     */
+    final void setAttached(boolean attached) {
+        this.attached = attached;
+    }
+
+    /**
+     * Set the parent navigator for this node. A parent navigator allows a node to move forward or
+     * backward in the navigation.
+     * @param parent
+     */
+    final void setParent(Node<V> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * The parent navigator will give its child nodes a chance to set themselves up with a
+     * {@link State}. Nodes can gleam information from previous nodes in the navigation tree this
+     * way.
+     * <p>
+     * This method is called BEFORE a node is attached to its view.
+     * NOTE: {@link State} is immutable, so nodes need not worry about modifying the state
+     * or changing the data.
+     * @param state
+     */
+    void setState(@NonNull State state) {
+        this.state = state;
+    }
+
+    /**
+     * Callback for when the hardware back button is pressed.
+     * When returning true for this method, be sure to eventually call
+     * {@link NavigationTree#previousPage()} on the parent.
+     *
+     * Default implementation lets navigators pass the back press on to their current page first, and
+     * move to their previous page otherwise. Leaf nodes don't handle it.
+     *
+     * @return true if this instance will handle the back press, or false if it would like
+     *         the parent to handle it.
+     */
+    public boolean onBackPress() {
+        return tree != null && tree.onBackPress();
+    }
+
+    /**
+     * Called when the view is attached.
+     *
+     * Default implementation does nothing.
+     */
+    public void attach(V view) {
+
+    }
+
+    /**
+     * Callback for when a node is being added via forward navigation (i.e. it is entering)
+     *
+     * Allows the node to animate its views in in a proper fashion
+     *
+     * Called after {@link #attach(Object)}
+     *
+     * @param view The view associated with this node
+     */
+    public void onEnter(V view) {
+
+    }
+
+    /**
+     * Callback for when a node is being added via backward navigation (i.e. it is reentering)
+     *
+     * Allows the node to animate its views in in a proper fashion
+     *
+     * Called after {@link #attach(Object)}
+     *
+     * @param view The view associated with this node
+     */
+    public void onReenter(V view) {
+
+    }
+
+    /**
+     * Callback for when a node is being removed via forward navigation.
+     *
+     * Allows the node to animate its views out in a proper fashion
+     *
+     * Called before {@link #detach(Object)}
+     *
+     * @param view The view associated with this node
+     */
+    public void onExitForwards(V view) {
+
+    }
+
+    /**
+     * Callback for when a node is being removed via backward navigation.
+     *
+     * Allows the node to animate its views out in a proper fashion
+     *
+     * Called before {@link #detach(Object)}
+     *
+     * @param view The view associated with this node
+     */
+    public void onExitBackwards(V view) {
+
+    }
+
+    /**
+     * Called when the view is detached.
+     *
+     * Default implementation does nothing.
+     */
+    public void detach(V view) {
+
+    }
+
+    /**
+     * A parent navigator will allow a node to modify its state when it is being detached.
+     * This allows a node a chance to pass information along to the parent navigator or to the
+     * next node in the navigation tree.
+     * <p>
+     * This method is called BEFORE a node is detached.
+     * @param state
+     * @return an instance of {@link State}. Can be the same one (unmodified), or a new modified version.
+     */
+    @NonNull
+    protected State getEndingState(@NonNull State state) {
+        return state;
+    }
+
+    /**
+     * True from just before attach until just after detach.
+     */
+    public final boolean isAttached() {
+        return attached;
+    }
+
+    /**
+     * Returns the parent navigator, if there's any.
+     * @return
+     */
+    @Nullable
+    public final Node<V> getParent() {
+        return parent;
+    }
+
+    public final State getState() {
+        return state;
+    }
+
+}
@@ -3,8 +3,11 @@ package com.everalbum.navigators;
 import android.support.annotation.Nullable;
 
 /**
- * Stateful class that maintains track of which page a {@link Navigator} is on.
+ * Stateful class that maintains track of which page a navigator is on.
  * Must have at least one page, otherwise an exception will be thrown when initializing the navigator.
+ * <p>
+ * Implementations can narrow the return types to the {@link Node} type of their rendering backend,
+ * e.g. {@code Coordinator nextPage()}.
  */
 public interface PageManager {
 
@@ -12,23 +15,23 @@ public interface PageManager {
      * @return the coordinator of the current page
      */
     @Nullable
-    Coordinator currentPage();
+    Node<?> currentPage();
 
     /**
      * @return the coordinator of the next page, or null if no next page
      */
     @Nullable
-    Coordinator nextPage();
+    Node<?> nextPage();
 
     /**
      * @return the coordinator of the previous page, or null if no previous page
      */
     @Nullable
-    Coordinator previousPage();
+    Node<?> previousPage();
 
 
     /**
-     * Resets state of PageManager. Called when the Navigator is being detached.
+     * Resets state of PageManager. Called when the navigator is being detached.
      */
     void reset();
 }
@@ -0,0 +1,68 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Rendering backend of a {@link NavigationTree}. A renderer owns the container a navigator shows
+ * its pages in, and knows how to create, show and remove the views of {@link Node}s.
+ * <p>
+ * A navigator shows at most one page at a time.
+ */
+public interface Renderer<V> {
+
+    /**
+     * Called at the start of every transition to a page, before the current page exits and is
+     * removed.
+     */
+    void onTransitionStarted();
+
+    /**
+     * Called at the end of every transition to a page, after its enter callbacks ran and, for
+     * navigators, after their own first page was shown.
+     *
+     * @param view the view of the page
+     * @param node the node of the page
+     */
+    void onTransitionFinished(@NonNull V view, @NonNull Node<V> node);
+
+    /**
+     * Creates the view for a node, adds it to the container and binds the node to it. Binding is
+     * expected to drive the node through a {@link Lifecycle} as the view is attached and detached.
+     * <p>
+     * Page managers can return any {@link Node}, so implementations should throw an
+     * {@link IllegalStateException} for nodes they can't render.
+     *
+     * @param node   the node to show
+     * @param parent the navigator the node is shown by
+     * @return the view of the node
+     */
+    @NonNull
+    V addPage(@NonNull Node<V> node, @NonNull Node<V> parent);
+
+    /**
+     * Removes a view previously returned by {@link #addPage(Node, Node)} from the container.
+     */
+    void removePage(@NonNull V view);
+
+    /**
+     * @return the view currently shown in the container, or null if there's none
+     */
+    @Nullable
+    V currentPage();
+
+    /**
+     * @return the node bound to a view, or null if the view isn't bound
+     */
+    @Nullable
+    Node<V> getNode(@NonNull V view);
+
+    /**
+     * Returns a renderer for the content area of a child navigator.
+     *
+     * @param view      the view of the child navigator
+     * @param navigator the child navigator
+     */
+    @NonNull
+    Renderer<V> childRenderer(@NonNull V view, @NonNull Node<V> navigator);
+}
@@ -1,23 +1,24 @@
 package com.everalbum.navigators;
 
-import android.support.v4.util.SimpleArrayMap;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Immutable map that defines the state of a {@link Navigator} after it has attached a child
+ * Immutable map that defines the state of a navigator after it has attached a child
  * view/coordinator. Helps facilitate data transfer and communication between coordinators.
  */
 public final class State {
-    private final SimpleArrayMap<String, Object> map;
+    private final Map<String, Object> map;
 
     public State() {
-        this(new SimpleArrayMap<String, Object>());
+        this(new HashMap<String, Object>());
     }
 
     public State(State s) {
-        this(new SimpleArrayMap<String, Object>(s.map));
+        this(new HashMap<>(s.map));
     }
 
-    State(SimpleArrayMap<String, Object> map) {
+    State(Map<String, Object> map) {
         this.map = map;
     }
 
@@ -61,10 +62,10 @@ public final class State {
     }
 
     public static class Transaction {
-        private final SimpleArrayMap<String, Object> map;
+        private final Map<String, Object> map;
 
-        Transaction(SimpleArrayMap<String, Object> map) {
-            this.map = new SimpleArrayMap<>(map);
+        Transaction(Map<String, Object> map) {
+            this.map = new HashMap<>(map);
         }
 
         public Transaction putString(String key, String value) {
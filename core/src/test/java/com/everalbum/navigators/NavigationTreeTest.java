@@ -0,0 +1,323 @@
+package com.everalbum.navigators;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NavigationTreeTest {
+
+    private List<String> events;
+
+    @Before
+    public void setUp() {
+        events = new ArrayList<>();
+    }
+
+    @Test
+    public void navigatesDepthFirstThroughNestedNavigators() {
+        TestNavigator nested = navigator("nested", page("b"), page("c"));
+        TestNavigator root = navigator("root", page("a"), nested, page("d"));
+        root.initialize();
+
+        assertTrue(root.tree.nextPage());
+        assertTrue(root.tree.nextPage());
+        assertTrue(root.tree.nextPage());
+        assertEquals(Arrays.asList("a", "nested", "b", "c", "d"), entered());
+
+        // Navigators that are navigated away from are reset, so they start over from their first page
+        events.clear();
+        assertTrue(root.tree.previousPage());
+        assertEquals(Arrays.asList("attach nested", "reenter nested", "attach b", "enter b"), events);
+    }
+
+    @Test
+    public void invokesCallbackWhenLastPageIsReached() {
+        TestNavigator root = navigator("root", page("a"));
+        final List<Boolean> handled = new ArrayList<>();
+        root.initialize();
+        root.tree.setNavigationCallback(new NavigationCallback() {
+            @Override
+            public void onNext(boolean h) {
+                handled.add(h);
+            }
+
+            @Override
+            public void onPrevious(boolean h) {
+            }
+        });
+
+        assertFalse(root.tree.nextPage());
+        assertEquals(Arrays.asList(false), handled);
+    }
+
+    @Test
+    public void passesEndingStateToNextPage() {
+        TestNode first = new TestNode("a") {
+            @Override
+            protected State getEndingState(State state) {
+                return state.putString("email", "a@b.c");
+            }
+        };
+        TestNode second = page("b");
+        TestNavigator root = navigator("root", first, second);
+        root.initialize();
+        root.tree.nextPage();
+
+        assertEquals("a@b.c", second.getState().getString("email"));
+        assertTrue(second.isAttached());
+        assertFalse(first.isAttached());
+        assertSame(root, second.getParent());
+    }
+
+    @Test
+    public void nestedLeafConsumesBackPress() {
+        TestNode consuming = new TestNode("c") {
+            @Override
+            public boolean onBackPress() {
+                events.add("back " + name);
+                return true;
+            }
+        };
+        TestNavigator nested = navigator("nested", page("b"), consuming);
+        TestNavigator root = navigator("root", page("a"), nested);
+        root.initialize();
+        root.tree.nextPage();
+        root.tree.nextPage();
+
+        events.clear();
+        assertTrue(root.onBackPress());
+        assertEquals(Arrays.asList("back c"), events);
+    }
+
+    @Test
+    public void backPressMovesNestedNavigatorBack() {
+        TestNavigator nested = navigator("nested", page("b"), page("c"));
+        TestNavigator root = navigator("root", page("a"), nested);
+        root.initialize();
+        root.tree.nextPage();
+        root.tree.nextPage();
+
+        events.clear();
+        assertTrue(root.onBackPress());
+        assertEquals(Arrays.asList("attach b", "reenter b"), events);
+    }
+
+    @Test
+    public void retainedTreeKeepsPositionAcrossReattach() {
+        TestNavigator nested = navigator("nested", page("b"), page("c"));
+        TestNavigator root = navigator("root", page("a"), nested);
+        root.initialize();
+        root.tree.nextPage();
+        root.tree.nextPage();
+
+        root.tree.setRetained(true);
+        root.detachRoot();
+        assertFalse(nested.isAttached());
+
+        events.clear();
+        root.reattach();
+        assertEquals(Arrays.asList("attach root", "attach nested", "attach c"), events);
+        assertTrue(root.tree.previousPage());
+        assertEquals("reenter b", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void navigatorRemovedAfterRetainingIsReset() {
+        TestNavigator nested = navigator("nested", page("b"), page("c"));
+        TestNavigator root = navigator("root", nested, page("d"));
+        root.initialize();
+        root.tree.nextPage();
+
+        root.tree.setRetained(true);
+        // Navigating away from the nested navigator before the root is detached
+        root.tree.nextPage();
+        assertFalse(nested.tree.isRetained());
+        assertNull(nested.tree.getPageManager().currentPage());
+    }
+
+    @Test
+    public void navigatorAddedAfterRetainingIsRetained() {
+        TestNavigator nested = navigator("nested", page("b"), page("c"));
+        TestNavigator root = navigator("root", page("a"), nested);
+        root.initialize();
+
+        root.tree.setRetained(true);
+        root.tree.nextPage();
+        root.tree.nextPage();
+        root.detachRoot();
+
+        events.clear();
+        root.reattach();
+        assertEquals(Arrays.asList("attach root", "attach nested", "attach c"), events);
+    }
+
+    @Test
+    public void detachResetsPageManager() {
+        TestNavigator root = navigator("root", page("a"), page("b"));
+        root.initialize();
+        root.tree.nextPage();
+        root.detachRoot();
+
+        assertNull(root.tree.getPageManager().currentPage());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void throwsWithoutPages() {
+        navigator("root").initialize();
+    }
+
+    private List<String> entered() {
+        List<String> entered = new ArrayList<>();
+        for (String event : events) {
+            if (event.startsWith("enter ")) {
+                entered.add(event.substring("enter ".length()));
+            }
+        }
+        return entered;
+    }
+
+    private TestNode page(String name) {
+        return new TestNode(name);
+    }
+
+    private TestNavigator navigator(String name, final Node<?>... pages) {
+        return new TestNavigator(name, new CachingPageManager() {
+            @Override
+            protected Node<?> createCoordinator(int pageNumber) {
+                return pageNumber < pages.length ? pages[pageNumber] : null;
+            }
+        });
+    }
+
+    static final class FakeView {
+        final Node<FakeView> node;
+        final List<FakeView> children = new ArrayList<>();
+        Lifecycle<FakeView>  lifecycle;
+
+        FakeView(Node<FakeView> node) {
+            this.node = node;
+        }
+    }
+
+    /**
+     * Renders nodes into plain objects, attaching them as soon as they are added.
+     */
+    static final class FakeRenderer implements Renderer<FakeView> {
+        private final FakeView container;
+
+        FakeRenderer(FakeView container) {
+            this.container = container;
+        }
+
+        @Override
+        public void onTransitionStarted() {
+        }
+
+        @Override
+        public void onTransitionFinished(FakeView view, Node<FakeView> node) {
+        }
+
+        @Override
+        public FakeView addPage(Node<FakeView> node, Node<FakeView> parent) {
+            FakeView view = new FakeView(node);
+            view.lifecycle = new Lifecycle<>(node, parent);
+            container.children.add(view);
+            view.lifecycle.onAttached(view);
+            return view;
+        }
+
+        @Override
+        public void removePage(FakeView view) {
+            container.children.remove(view);
+            detachRecursively(view);
+        }
+
+        @Override
+        public FakeView currentPage() {
+            return container.children.isEmpty() ? null : container.children.get(0);
+        }
+
+        @Override
+        public Node<FakeView> getNode(FakeView view) {
+            return view.node;
+        }
+
+        @Override
+        public Renderer<FakeView> childRenderer(FakeView view, Node<FakeView> navigator) {
+            return new FakeRenderer(view);
+        }
+
+        static void detachRecursively(FakeView view) {
+            // Children are detached before their parents, like Android views
+            for (FakeView child : new ArrayList<>(view.children)) {
+                detachRecursively(child);
+            }
+            if (view.lifecycle != null) {
+                view.lifecycle.onDetached(view);
+            }
+        }
+    }
+
+    class TestNode extends Node<FakeView> {
+        final String name;
+
+        TestNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void attach(FakeView view) {
+            events.add("attach " + name);
+        }
+
+        @Override
+        public void onEnter(FakeView view) {
+            events.add("enter " + name);
+        }
+
+        @Override
+        public void onReenter(FakeView view) {
+            events.add("reenter " + name);
+        }
+    }
+
+    class TestNavigator extends TestNode {
+        private FakeView root;
+
+        TestNavigator(String name, PageManager pageManager) {
+            super(name);
+            // Registers itself as Node.tree, the reference the engine walks
+            new NavigationTree<>(this, pageManager);
+        }
+
+        void initialize() {
+            bindRoot();
+            tree.initialize(new FakeRenderer(root));
+        }
+
+        void reattach() {
+            bindRoot();
+            tree.reattach(new FakeRenderer(root));
+        }
+
+        void detachRoot() {
+            FakeRenderer.detachRecursively(root);
+        }
+
+        @Override
+        public void detach(FakeView view) {
+            tree.detach();
+        }
+
+        private void bindRoot() {
+            root = new FakeView(this);
+            root.lifecycle = new Lifecycle<FakeView>(this, null);
+            root.lifecycle.onAttached(root);
+        }
+    }
+}
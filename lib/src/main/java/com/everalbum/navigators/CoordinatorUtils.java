@@ -36,43 +36,29 @@ final class CoordinatorUtils {
 
     /**
      * Helper class to bind a coordinator to a View. See {@link CoordinatorUtils#bind(View, Coordinator)}
+     * <p>
+     * Forwards the attach state of the view to the coordinator's {@link Lifecycle}.
      */
     final static class Binding implements View.OnAttachStateChangeListener {
-        private final Coordinator coordinator;
-        @Nullable private final Navigator navigator;
-        private View attached;
+        private final Coordinator     coordinator;
+        private final Lifecycle<View> lifecycle;
 
         Binding(Coordinator coordinator, @Nullable Navigator navigator) {
             this.coordinator = coordinator;
-            this.navigator = navigator;
+            this.lifecycle = new Lifecycle<View>(coordinator, navigator);
         }
 
         @Override public void onViewAttachedToWindow(@NonNull View v) {
-            if (v != attached) {
-                if (coordinator.isAttached()) {
-                    throw new IllegalStateException(
-                            "Coordinator " + coordinator.getClass().getSimpleName() + " is already attached to a View");
-                }
-                coordinator.setNavigator(navigator);
-                attached = v;
-                coordinator.setAttached(true);
-                coordinator.attach(attached);
-                attached.setTag(R.id.coordinator, coordinator);
+            if (lifecycle.onAttached(v)) {
+                v.setTag(R.id.coordinator, coordinator);
             }
         }
 
         @Override public void onViewDetachedFromWindow(@NonNull View v) {
-            if (v == attached) {
-                coordinator.detach(attached);
-                coordinator.setAttached(false);
-                coordinator.setNavigator(null);
-                // Happens if rapidly moving backwards and finishing an activity
-                if(attached != null) {
-                    attached.setTag(R.id.coordinator, null);
-                    attached.removeOnAttachStateChangeListener(this);
-                }
-                attached = null;
+            if (lifecycle.onDetached(v)) {
+                v.setTag(R.id.coordinator, null);
+                v.removeOnAttachStateChangeListener(this);
             }
         }
     }
-}
\ No newline at end of file
+}
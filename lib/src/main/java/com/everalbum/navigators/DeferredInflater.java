@@ -0,0 +1,215 @@
+package com.everalbum.navigators;
+
+import android.graphics.Rect;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
+
+import java.util.Locale;
+
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_IDLE;
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_VISIBLE;
+
+/**
+ * Inflates the {@link DeferredRegion}s of a page once their triggers fire and reports page
+ * inflation times to a {@link PageInflationListener}.
+ * <p>
+ * Everything is cancelled as soon as the page view is detached from the window.
+ */
+final class DeferredInflater implements ViewTreeObserver.OnPreDrawListener,
+        ViewTreeObserver.OnScrollChangedListener,
+        ViewTreeObserver.OnGlobalLayoutListener,
+        MessageQueue.IdleHandler,
+        View.OnAttachStateChangeListener {
+
+    private final View             page;
+    private final Coordinator      coordinator;
+    private final Navigator        navigator;
+    private final InflationTracker tracker;
+    private final Rect             visibleRect = new Rect();
+    private final Runnable         firstFrame  = new Runnable() {
+        @Override
+        public void run() {
+            onFirstFrame();
+        }
+    };
+
+    private boolean idleScheduled;
+    private boolean visibilityObserved;
+
+    private DeferredInflater(View page, Coordinator coordinator, Navigator navigator, long startTime) {
+        this.page = page;
+        this.coordinator = coordinator;
+        this.navigator = navigator;
+        this.tracker = new InflationTracker(coordinator.getDeferredRegions(), startTime);
+    }
+
+    /**
+     * Schedules inflation of the deferred regions of a freshly added page, and tracks its first
+     * frame even without regions, so that a listener set after the page was added still gets it.
+     *
+     * @param navigator the navigator showing the page; its listener is looked up when reporting
+     * @param startTime uptime at which the navigator started moving to the page
+     */
+    static void schedule(View page, Coordinator coordinator, Navigator navigator, long startTime) {
+        DeferredInflater inflater = new DeferredInflater(page, coordinator, navigator, startTime);
+        page.addOnAttachStateChangeListener(inflater);
+        page.getViewTreeObserver().addOnPreDrawListener(inflater);
+    }
+
+    @Override
+    public boolean onPreDraw() {
+        removePreDrawListener();
+        // Runs after the current traversal, i.e. once the first frame has been drawn
+        page.post(firstFrame);
+        return true;
+    }
+
+    private void onFirstFrame() {
+        for (DeferredRegion region : tracker.onFirstFrame(SystemClock.uptimeMillis())) {
+            inflate(region);
+        }
+        if (tracker.isFinished()) {
+            // Cancelled, e.g. a region's callback navigated away from the page
+            return;
+        }
+        if (tracker.hasPending(ON_IDLE)) {
+            idleScheduled = true;
+            Looper.myQueue().addIdleHandler(this);
+        }
+        if (tracker.hasPending(ON_VISIBLE)) {
+            visibilityObserved = true;
+            ViewTreeObserver observer = page.getViewTreeObserver();
+            observer.addOnScrollChangedListener(this);
+            observer.addOnGlobalLayoutListener(this);
+            inflateVisibleRegions();
+        }
+        finishIfDone();
+    }
+
+    @Override
+    public boolean queueIdle() {
+        // Inflate a single region per idle pass so that input and animations can run in between
+        DeferredRegion region = tracker.nextIdleRegion();
+        if (region != null) {
+            inflate(region);
+        }
+        idleScheduled = tracker.hasPending(ON_IDLE);
+        finishIfDone();
+        return idleScheduled;
+    }
+
+    @Override
+    public void onScrollChanged() {
+        inflateVisibleRegions();
+    }
+
+    @Override
+    public void onGlobalLayout() {
+        inflateVisibleRegions();
+    }
+
+    private void inflateVisibleRegions() {
+        for (DeferredRegion region : tracker.pending(ON_VISIBLE)) {
+            if (isVisible(findContainer(region))) {
+                inflate(region);
+            }
+        }
+        if (!tracker.hasPending(ON_VISIBLE)) {
+            removeVisibilityListeners();
+        }
+        finishIfDone();
+    }
+
+    private boolean isVisible(View container) {
+        return container.isShown() && container.getGlobalVisibleRect(visibleRect);
+    }
+
+    private void inflate(DeferredRegion region) {
+        if (tracker.isFinished()) {
+            // A previous region's callback navigated away from the page
+            return;
+        }
+        ViewGroup container = findContainer(region);
+        View v = LayoutInflater.from(container.getContext())
+                               .inflate(region.getLayoutRes(), container, false);
+        container.addView(v);
+        tracker.onInflated(region);
+        coordinator.onRegionReady(region, v);
+    }
+
+    @NonNull
+    private ViewGroup findContainer(DeferredRegion region) {
+        View container = page.findViewById(region.getContainerId());
+        if (!(container instanceof ViewGroup)) {
+            throw new NullPointerException(String.format(Locale.US, "Coordinator {%s} declared a " +
+                    "deferred region without a view group to inflate it into. Please ensure a view group with " +
+                    "the region's container id exists in layout.", coordinator.getClass().getSimpleName()));
+        }
+        return (ViewGroup) container;
+    }
+
+    private void finishIfDone() {
+        if (!tracker.finishIfDone(SystemClock.uptimeMillis())) {
+            return;
+        }
+        release();
+        PageInflationListener listener = navigator.findPageInflationListener();
+        if (listener != null) {
+            listener.onPageInflated(coordinator, tracker.getTimeToFirstFrame(), tracker.getTimeToFullyInflated());
+        }
+    }
+
+    private void cancel() {
+        tracker.cancel();
+        release();
+    }
+
+    private void release() {
+        removePreDrawListener();
+        removeVisibilityListeners();
+        if (idleScheduled) {
+            Looper.myQueue().removeIdleHandler(this);
+            idleScheduled = false;
+        }
+        page.removeCallbacks(firstFrame);
+        page.removeOnAttachStateChangeListener(this);
+    }
+
+    private void removePreDrawListener() {
+        ViewTreeObserver observer = page.getViewTreeObserver();
+        if (observer.isAlive()) {
+            observer.removeOnPreDrawListener(this);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void removeVisibilityListeners() {
+        if (!visibilityObserved) {
+            return;
+        }
+        visibilityObserved = false;
+        ViewTreeObserver observer = page.getViewTreeObserver();
+        if (observer.isAlive()) {
+            observer.removeOnScrollChangedListener(this);
+            // removeOnGlobalLayoutListener is only available from API 16
+            observer.removeGlobalOnLayoutListener(this);
+        }
+    }
+
+    @Override
+    public void onViewAttachedToWindow(View v) {
+
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(View v) {
+        // Page was removed before it was fully inflated
+        cancel();
+    }
+}
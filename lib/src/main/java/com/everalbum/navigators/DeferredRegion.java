@@ -0,0 +1,79 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.IdRes;
+import android.support.annotation.IntDef;
+import android.support.annotation.LayoutRes;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_FIRST_FRAME;
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_IDLE;
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_VISIBLE;
+
+/**
+ * A part of a {@link Coordinator}'s layout that is inflated after the page itself has been
+ * brought on screen.
+ * <p>
+ * The page layout only contains an empty view group with the id {@link #getContainerId()}. The
+ * layout {@link #getLayoutRes()} is inflated into that view group once the region's
+ * {@link Trigger} fires, after which {@link Coordinator#onRegionReady(DeferredRegion, android.view.View)}
+ * is called so the coordinator can bind it.
+ * <p>
+ * Regions using {@link Trigger#ON_VISIBLE} need a container with a non-zero size (e.g. a fixed
+ * height or a {@code minHeight}), otherwise they are never considered visible.
+ */
+public final class DeferredRegion {
+    @Retention(RetentionPolicy.CLASS)
+    @IntDef({
+            ON_FIRST_FRAME,
+            ON_IDLE,
+            ON_VISIBLE
+    })
+    public @interface Trigger {
+        /**
+         * Inflate right after the first frame of the page has been drawn.
+         */
+        int ON_FIRST_FRAME = 0;
+        /**
+         * Inflate once the main thread is idle after the first frame. Idle regions are inflated
+         * one per idle pass.
+         */
+        int ON_IDLE        = 1;
+        /**
+         * Inflate once the container scrolls into view.
+         */
+        int ON_VISIBLE     = 2;
+    }
+
+    @IdRes
+    private final int containerId;
+    @LayoutRes
+    private final int layoutRes;
+    @Trigger
+    private final int trigger;
+
+    public DeferredRegion(@IdRes int containerId, @LayoutRes int layoutRes, @Trigger int trigger) {
+        this.containerId = containerId;
+        this.layoutRes = layoutRes;
+        this.trigger = trigger;
+    }
+
+    /**
+     * @return id of the view group in the page layout the region is inflated into
+     */
+    @IdRes
+    public int getContainerId() {
+        return containerId;
+    }
+
+    @LayoutRes
+    public int getLayoutRes() {
+        return layoutRes;
+    }
+
+    @Trigger
+    public int getTrigger() {
+        return trigger;
+    }
+}
@@ -0,0 +1,122 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_FIRST_FRAME;
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_IDLE;
+
+/**
+ * Keeps track of which {@link DeferredRegion}s of a page are still pending and of the page's
+ * inflation times. Used by {@link DeferredInflater}, which does the actual inflation.
+ * <p>
+ * All times are uptime milliseconds.
+ */
+final class InflationTracker {
+    private final List<DeferredRegion> pending;
+    private final long                 startTime;
+
+    private long    firstFrameTime    = -1;
+    private long    fullyInflatedTime = -1;
+    private boolean finished;
+
+    InflationTracker(@NonNull List<DeferredRegion> regions, long startTime) {
+        this.pending = new ArrayList<>(regions);
+        this.startTime = startTime;
+    }
+
+    /**
+     * Records the first frame of the page.
+     *
+     * @return the regions to inflate right away
+     */
+    @NonNull
+    List<DeferredRegion> onFirstFrame(long time) {
+        if (finished || firstFrameTime >= 0) {
+            return new ArrayList<>();
+        }
+        firstFrameTime = time;
+        return pending(ON_FIRST_FRAME);
+    }
+
+    /**
+     * @return the next region to inflate on an idle pass, or null if there's none. Idle regions
+     *         are handed out one at a time.
+     */
+    @Nullable
+    DeferredRegion nextIdleRegion() {
+        if (finished || firstFrameTime < 0) {
+            return null;
+        }
+        for (DeferredRegion region : pending) {
+            if (region.getTrigger() == ON_IDLE) {
+                return region;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the pending regions with the given trigger, or none before the first frame
+     */
+    @NonNull
+    List<DeferredRegion> pending(@DeferredRegion.Trigger int trigger) {
+        List<DeferredRegion> regions = new ArrayList<>();
+        if (finished || firstFrameTime < 0) {
+            return regions;
+        }
+        for (DeferredRegion region : pending) {
+            if (region.getTrigger() == trigger) {
+                regions.add(region);
+            }
+        }
+        return regions;
+    }
+
+    boolean hasPending(@DeferredRegion.Trigger int trigger) {
+        return !pending(trigger).isEmpty();
+    }
+
+    void onInflated(@NonNull DeferredRegion region) {
+        pending.remove(region);
+    }
+
+    /**
+     * Finishes tracking if the first frame has been drawn and no regions are pending.
+     *
+     * @return true if tracking finished with this call, i.e. the page is fully inflated
+     */
+    boolean finishIfDone(long time) {
+        if (finished || firstFrameTime < 0 || !pending.isEmpty()) {
+            return false;
+        }
+        finished = true;
+        fullyInflatedTime = time;
+        return true;
+    }
+
+    /**
+     * Stops tracking without the page getting fully inflated.
+     */
+    void cancel() {
+        finished = true;
+    }
+
+    /**
+     * @return true once the page is fully inflated or tracking was cancelled
+     */
+    boolean isFinished() {
+        return finished;
+    }
+
+    long getTimeToFirstFrame() {
+        return firstFrameTime - startTime;
+    }
+
+    long getTimeToFullyInflated() {
+        return fullyInflatedTime - startTime;
+    }
+}
@@ -0,0 +1,20 @@
+package com.everalbum.navigators;
+
+/**
+ * Instrumentation callback reporting how long each page took to come on screen.
+ * <p>
+ * All times are in milliseconds and measured from the moment the {@link Navigator} started
+ * moving to the page, i.e. before the previous page exits and is removed.
+ */
+public interface PageInflationListener {
+    /**
+     * Called once a page has drawn its first frame and all of its {@link DeferredRegion}s are
+     * inflated. Not called if the page is removed before that happens.
+     *
+     * @param coordinator         the coordinator of the page
+     * @param timeToFirstFrame    time until the first frame of the page was drawn
+     * @param timeToFullyInflated time until the last deferred region was inflated. Equal to
+     *                            {@code timeToFirstFrame} when the page has no deferred regions.
+     */
+    void onPageInflated(Coordinator coordinator, long timeToFirstFrame, long timeToFullyInflated);
+}
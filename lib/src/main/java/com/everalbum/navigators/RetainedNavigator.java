@@ -0,0 +1,71 @@
+package com.everalbum.navigators;
+
+import android.support.annotation.NonNull;
+import android.view.ViewGroup;
+
+/**
+ * Holder that keeps a live {@link Navigator} tree (page managers, coordinators and {@link State})
+ * across a configuration change.
+ * <p>
+ * Retain the top navigator right before the activity is destroyed, and restore it in the new
+ * activity instead of creating and initializing a new one:
+ * <pre>{@code
+ * public Object onRetainCustomNonConfigurationInstance() {
+ *     return RetainedNavigator.retain(navigator);
+ * }
+ *
+ * protected void onCreate(Bundle savedInstanceState) {
+ *     ...
+ *     RetainedNavigator<ExampleNavigator> retained =
+ *             (RetainedNavigator<ExampleNavigator>) getLastCustomNonConfigurationInstance();
+ *     if (retained != null) {
+ *         navigator = retained.restore(container);
+ *     } else {
+ *         navigator = new ExampleNavigator(new ExamplePageManager());
+ *         navigator.initialize(container);
+ *     }
+ * }
+ * }</pre>
+ * Coordinators are detached from their old views and attached to the new ones as usual, but
+ * {@link PageManager#reset()} is not called and only the current pages are inflated again.
+ * <p>
+ * {@link NavigationCallback}s and {@link PageInflationListener}s are still cleared on detach, so
+ * they need to be set again after restoring. A listener set right after {@link #restore(ViewGroup)}
+ * still gets the restored pages reported.
+ */
+public final class RetainedNavigator<T extends Navigator> {
+    private final T navigator;
+
+    private RetainedNavigator(T navigator) {
+        this.navigator = navigator;
+    }
+
+    /**
+     * Marks the navigator tree as retained. Must be called on the top navigator while it is still
+     * attached, i.e. before its view group is detached from the window.
+     */
+    @NonNull
+    public static <T extends Navigator> RetainedNavigator<T> retain(@NonNull T navigator) {
+        if (navigator.getNavigator() != null) {
+            throw new IllegalStateException("Only the top navigator can be retained");
+        }
+        if (!navigator.isAttached()) {
+            throw new IllegalStateException("Navigator " + navigator.getClass().getSimpleName()
+                    + " needs to be attached to be retained");
+        }
+        navigator.setRetained(true);
+        return new RetainedNavigator<>(navigator);
+    }
+
+    /**
+     * Reattaches the retained navigator to the given view group, bringing back the page the user
+     * was on.
+     *
+     * @return the retained navigator
+     */
+    @NonNull
+    public T restore(@NonNull ViewGroup group) {
+        navigator.reattach(group);
+        return navigator;
+    }
+}
@@ -0,0 +1,97 @@
+package com.everalbum.navigators;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.Locale;
+
+/**
+ * {@link Renderer} that inflates the layouts of {@link Coordinator}s into a view group, one page at
+ * a time.
+ */
+final class ViewGroupRenderer implements Renderer<View> {
+    private final ViewGroup viewGroup;
+    private       long      transitionStartTime;
+
+    ViewGroupRenderer(ViewGroup viewGroup) {
+        this.viewGroup = viewGroup;
+    }
+
+    ViewGroup getViewGroup() {
+        return viewGroup;
+    }
+
+    @Override
+    public void onTransitionStarted() {
+        transitionStartTime = SystemClock.uptimeMillis();
+    }
+
+    @Override
+    public void onTransitionFinished(@NonNull View view, @NonNull Node<View> node) {
+        // Checked by addPage
+        Coordinator coordinator = (Coordinator) node;
+        Navigator navigator = coordinator.getNavigator();
+        if (navigator == null) {
+            // The page's own callbacks already navigated away from it
+            return;
+        }
+        DeferredInflater.schedule(view, coordinator, navigator, transitionStartTime);
+    }
+
+    @NonNull
+    @Override
+    public View addPage(@NonNull Node<View> node, @NonNull Node<View> parent) {
+        if (!(parent instanceof Navigator)) {
+            throw new IllegalStateException(String.format(Locale.US, "Node {%s} has a navigation tree " +
+                    "but is not a Navigator. Please ensure navigators shown in views extend Navigator.",
+                    parent.getClass().getSimpleName()));
+        }
+        Navigator navigator = (Navigator) parent;
+        if (!(node instanceof Coordinator)) {
+            throw new IllegalStateException(String.format(Locale.US, "Provided page manager {%s} returned " +
+                    "node {%s}, which is not a Coordinator. Please ensure all pages of a Navigator extend Coordinator.",
+                    navigator.getPageManager().getClass().getSimpleName(), node.getClass().getSimpleName()));
+        }
+        Coordinator coordinator = (Coordinator) node;
+        View v = LayoutInflater.from(viewGroup.getContext())
+                               .inflate(coordinator.getLayoutRes(), viewGroup, false);
+        viewGroup.addView(v);
+        CoordinatorUtils.bind(v, coordinator, navigator);
+        return v;
+    }
+
+    @Override
+    public void removePage(@NonNull View view) {
+        viewGroup.removeView(view);
+    }
+
+    @Nullable
+    @Override
+    public View currentPage() {
+        return viewGroup.getChildAt(0);
+    }
+
+    @Nullable
+    @Override
+    public Node<View> getNode(@NonNull View view) {
+        return CoordinatorUtils.getCoordinator(view);
+    }
+
+    @NonNull
+    @Override
+    public Renderer<View> childRenderer(@NonNull View view, @NonNull Node<View> navigator) {
+        ViewGroup content = (ViewGroup) view.findViewById(R.id.navigator_content);
+        if (content == null ) {
+            Node<View> parent = navigator.getParent();
+            throw new NullPointerException(String.format(Locale.US, "Navigator {%s} trying " +
+                    "to attach navigator {%s} to view without necessary view group. Please ensure a view group with id {R.id.navigator_content}" +
+                    " exists in layout.", parent == null ? null : parent.getClass().getSimpleName(),
+                    navigator.getClass().getSimpleName()));
+        }
+        return new ViewGroupRenderer(content);
+    }
+}
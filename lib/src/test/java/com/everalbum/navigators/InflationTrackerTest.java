@@ -0,0 +1,101 @@
+package com.everalbum.navigators;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_FIRST_FRAME;
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_IDLE;
+import static com.everalbum.navigators.DeferredRegion.Trigger.ON_VISIBLE;
+import static org.junit.Assert.*;
+
+public class InflationTrackerTest {
+
+    private final DeferredRegion firstFrame = new DeferredRegion(1, 10, ON_FIRST_FRAME);
+    private final DeferredRegion idle1      = new DeferredRegion(2, 20, ON_IDLE);
+    private final DeferredRegion idle2      = new DeferredRegion(3, 30, ON_IDLE);
+    private final DeferredRegion visible    = new DeferredRegion(4, 40, ON_VISIBLE);
+
+    @Test
+    public void nothingIsHandedOutBeforeFirstFrame() {
+        InflationTracker tracker = new InflationTracker(Arrays.asList(idle1, visible), 0);
+
+        assertNull(tracker.nextIdleRegion());
+        assertTrue(tracker.pending(ON_VISIBLE).isEmpty());
+        assertFalse(tracker.finishIfDone(5));
+    }
+
+    @Test
+    public void firstFrameReturnsOnlyFirstFrameRegions() {
+        InflationTracker tracker = new InflationTracker(Arrays.asList(firstFrame, idle1, visible), 0);
+
+        assertEquals(Collections.singletonList(firstFrame), tracker.onFirstFrame(16));
+        assertTrue(tracker.onFirstFrame(32).isEmpty());
+        assertEquals(16, tracker.getTimeToFirstFrame());
+    }
+
+    @Test
+    public void idleRegionsAreHandedOutOneAtATime() {
+        InflationTracker tracker = new InflationTracker(Arrays.asList(idle1, idle2), 0);
+        tracker.onFirstFrame(16);
+
+        assertSame(idle1, tracker.nextIdleRegion());
+        assertSame(idle1, tracker.nextIdleRegion());
+        tracker.onInflated(idle1);
+        assertFalse(tracker.finishIfDone(20));
+
+        assertSame(idle2, tracker.nextIdleRegion());
+        tracker.onInflated(idle2);
+        assertNull(tracker.nextIdleRegion());
+        assertFalse(tracker.hasPending(ON_IDLE));
+    }
+
+    @Test
+    public void fullyInflatedEqualsFirstFrameWithoutRegions() {
+        InflationTracker tracker = new InflationTracker(Collections.<DeferredRegion>emptyList(), 100);
+        tracker.onFirstFrame(116);
+
+        assertTrue(tracker.finishIfDone(116));
+        assertEquals(16, tracker.getTimeToFirstFrame());
+        assertEquals(16, tracker.getTimeToFullyInflated());
+    }
+
+    @Test
+    public void finishesOnceAllRegionsAreInflated() {
+        InflationTracker tracker = new InflationTracker(Arrays.asList(firstFrame, visible), 100);
+        for (DeferredRegion region : tracker.onFirstFrame(116)) {
+            tracker.onInflated(region);
+        }
+        assertFalse(tracker.finishIfDone(120));
+
+        tracker.onInflated(visible);
+        assertTrue(tracker.finishIfDone(250));
+        assertFalse(tracker.finishIfDone(300));
+        assertTrue(tracker.isFinished());
+        assertEquals(150, tracker.getTimeToFullyInflated());
+    }
+
+    @Test
+    public void cancelBeforeFirstFrameStopsEverything() {
+        InflationTracker tracker = new InflationTracker(Arrays.asList(firstFrame, idle1), 0);
+        tracker.cancel();
+
+        assertTrue(tracker.onFirstFrame(16).isEmpty());
+        assertNull(tracker.nextIdleRegion());
+        assertFalse(tracker.finishIfDone(16));
+    }
+
+    @Test
+    public void cancelAfterFirstFrameStopsPendingRegions() {
+        InflationTracker tracker = new InflationTracker(Arrays.asList(idle1, visible), 0);
+        tracker.onFirstFrame(16);
+        tracker.cancel();
+
+        assertTrue(tracker.isFinished());
+        assertNull(tracker.nextIdleRegion());
+        assertFalse(tracker.hasPending(ON_IDLE));
+        assertFalse(tracker.hasPending(ON_VISIBLE));
+        assertFalse(tracker.finishIfDone(20));
+    }
+}